@@ -0,0 +1,147 @@
+package se.ecosystem.simulation;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class ActivityHeatmap {
+
+    public enum Layer {
+        OCCUPANCY,
+        KILLS,
+        GRASS_EATEN,
+        BIRTHS,
+        DEATHS
+    }
+
+    // "EHMP" - identifies the snapshot format when read back by other tools
+    private static final int SNAPSHOT_MAGIC = 0x45484D50;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    // Decay factors for small tick gaps are looked up instead of calling Math.pow
+    private static final int DECAY_TABLE_SIZE = 256;
+
+    private final int width;
+    private final int height;
+    private final double decay;
+    private final double[] decayTable = new double[DECAY_TABLE_SIZE];
+
+    // One flat array per layer, indexed by y * width + x
+    private final double[][] values;
+    // Tick at which each cell's values were last brought up to date
+    private final int[] lastTick;
+
+    private int currentTick = 0;
+
+    /**
+     * @param decay factor each counter is multiplied by per tick, e.g. 0.98
+     */
+    public ActivityHeatmap(int width, int height, double decay) {
+        if (!(decay > 0 && decay <= 1)) {
+            throw new IllegalArgumentException("decay must be in (0, 1], was " + decay);
+        }
+        int cells;
+        try {
+            cells = Math.multiplyExact(width, height);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Grid of " + width + "x" + height + " has too many cells for a heatmap", e);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.decay = decay;
+        this.values = new double[Layer.values().length][cells];
+        this.lastTick = new int[cells];
+
+        decayTable[0] = 1.0;
+        for (int i = 1; i < DECAY_TABLE_SIZE; i++) {
+            decayTable[i] = decayTable[i - 1] * decay;
+        }
+    }
+
+    public void advance() {
+        currentTick++;
+    }
+
+    public void record(Layer layer, int x, int y) {
+        int cell = y * width + x;
+        settle(cell);
+        values[layer.ordinal()][cell] += 1.0;
+    }
+
+    /**
+     * Returns the decayed value of a cell as of the current tick without touching the stored state.
+     */
+    public double getValue(Layer layer, int x, int y) {
+        int cell = y * width + x;
+        return values[layer.ordinal()][cell] * decayFactor(currentTick - lastTick[cell]);
+    }
+
+    public double getMaxValue(Layer layer) {
+        double[] layerValues = values[layer.ordinal()];
+        double max = 0;
+        for (int cell = 0; cell < layerValues.length; cell++) {
+            double value = layerValues[cell] * decayFactor(currentTick - lastTick[cell]);
+            if (value > max) {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Writes every layer, decayed to the current tick, as one big-endian binary snapshot:
+     * magic, version, width, height, tick, decay, layer count, then per layer its ordinal
+     * followed by width * height doubles in row-major order.
+     */
+    public void writeSnapshot(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(SNAPSHOT_MAGIC);
+        data.writeInt(SNAPSHOT_VERSION);
+        data.writeInt(width);
+        data.writeInt(height);
+        data.writeInt(currentTick);
+        data.writeDouble(decay);
+        data.writeInt(values.length);
+
+        for (Layer layer : Layer.values()) {
+            double[] layerValues = values[layer.ordinal()];
+            data.writeInt(layer.ordinal());
+            for (int cell = 0; cell < layerValues.length; cell++) {
+                data.writeDouble(layerValues[cell] * decayFactor(currentTick - lastTick[cell]));
+            }
+        }
+        data.flush();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getCurrentTick() {
+        return currentTick;
+    }
+
+    // Applies the decay owed since the cell was last touched, to all layers at once
+    private void settle(int cell) {
+        int elapsed = currentTick - lastTick[cell];
+        if (elapsed == 0) return;
+
+        double factor = decayFactor(elapsed);
+        for (double[] layerValues : values) {
+            layerValues[cell] *= factor;
+        }
+        lastTick[cell] = currentTick;
+    }
+
+    private double decayFactor(int elapsed) {
+        if (elapsed < DECAY_TABLE_SIZE) {
+            return decayTable[elapsed];
+        }
+        return Math.pow(decay, elapsed);
+    }
+}
@@ -13,64 +13,87 @@ public class SimulationHandler {
 
     private final int width;
     private final int height;
-    private final List<Animal> animals = new ArrayList<>();
-    private final Map<Animal, Point> animalPositions = new HashMap<>();
+    private final long seed;
+    private final List<Animal> animals;
+    private final Map<Animal, Point> animalPositions;
     private final boolean[][] grass;
-    private final Random random = new Random();
+    private final Random random;
+    // Null unless requested, it costs far more memory per cell than the grass grid
+    private final ActivityHeatmap heatmap;
 
     private int tickCounter = 0;
 
+    private static final double HEATMAP_DECAY = 0.98;
+
     public record Point(int x, int y) {}
 
     public SimulationHandler(int width, int height) {
+        this(width, height, WorldGenerator.Config.defaults(), new Random().nextLong(), false);
+    }
+
+    /**
+     * Builds a world that is fully reproducible from the seed: terrain, initial populations
+     * and the random stream driving the ticks.
+     *
+     * @param trackHeatmap whether to record activity heatmaps, see {@link #getHeatmap()}
+     */
+    public SimulationHandler(int width, int height, WorldGenerator.Config config, long seed, boolean trackHeatmap) {
         this.width = width;
         this.height = height;
+        this.seed = seed;
+        // Built before generation so an unsupported grid size fails before any work is done
+        this.heatmap = trackHeatmap ? new ActivityHeatmap(width, height, HEATMAP_DECAY) : null;
         this.grass = new boolean[width][height];
-        spawnGrass();
-        spawnAnimals();
-    }
+        this.random = new Random(seed);
 
-    private void spawnGrass() {
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (random.nextDouble() < 0.2) {
-                    grass[x][y] = true;
-                }
-            }
-        }
+        int population = config.population();
+        this.animals = new ArrayList<>(population);
+        // Sized for the default load factor, clamped since population / 0.75 can exceed an int
+        this.animalPositions = new HashMap<>((int) Math.min(Integer.MAX_VALUE, population / 0.75 + 1));
+
+        WorldGenerator generator = new WorldGenerator(seed);
+        generator.fillGrass(grass, config.grassDensity());
+        spawnAnimals(generator, config);
     }
 
-    private void spawnAnimals() {
+    private void spawnAnimals(WorldGenerator generator, WorldGenerator.Config config) {
         int cornerW = Math.max(1, width / 4);
         int cornerH = Math.max(1, height / 4);
 
         // Herbivores: Top-Left
-        for (int i = 0; i < 8; i++) {
-            spawnAnimalInBounds(new AnimalHerbivore(100, 100, 0), 0, cornerW, 0, cornerH);
+        for (Point pos : generator.scatter(config.herbivores(), 0, cornerW, 0, cornerH)) {
+            placeAnimal(new AnimalHerbivore(100, 100, 0), pos);
         }
         // Carnivores: Top-Right
-        for (int i = 0; i < 2; i++) {
-            spawnAnimalInBounds(new AnimalCarnivore(120, 150, 0), width - cornerW, width, 0, cornerH);
+        for (Point pos : generator.scatter(config.carnivores(), width - cornerW, width, 0, cornerH)) {
+            placeAnimal(new AnimalCarnivore(120, 150, 0), pos);
         }
         // Omnivores: Bottom-Right
-        for (int i = 0; i < 4; i++) {
-            spawnAnimalInBounds(new AnimalOmnivore(110, 120, 0), width - cornerW, width, height - cornerH, height);
+        for (Point pos : generator.scatter(config.omnivores(), width - cornerW, width, height - cornerH, height)) {
+            placeAnimal(new AnimalOmnivore(110, 120, 0), pos);
         }
     }
 
+    private void placeAnimal(Animal animal, Point pos) {
+        animals.add(animal);
+        animalPositions.put(animal, pos);
+    }
+
     private void spawnAnimal(Animal animal) {
         spawnAnimalInBounds(animal, 0, width, 0, height);
     }
 
     private void spawnAnimalInBounds(Animal animal, int minX, int maxX, int minY, int maxY) {
-        animals.add(animal);
         int x = random.nextInt(maxX - minX) + minX;
         int y = random.nextInt(maxY - minY) + minY;
-        animalPositions.put(animal, new Point(x, y));
+        placeAnimal(animal, new Point(x, y));
     }
 
     public void updateSimulation() {
         tickCounter++;
+        if (heatmap != null) {
+            heatmap.advance();
+        }
         growGrass();
 
         List<Animal> babies = new ArrayList<>();
@@ -88,6 +111,7 @@ public class SimulationHandler {
             }
 
             if (animal.getHealth() <= 0 || animal.getAge() > 100) {
+                recordActivity(ActivityHeatmap.Layer.DEATHS, animalPositions.get(animal));
                 animalPositions.remove(animal);
                 iterator.remove();
                 continue;
@@ -95,6 +119,7 @@ public class SimulationHandler {
 
             handleStateTransition(animal);
             handleAction(animal);
+            recordActivity(ActivityHeatmap.Layer.OCCUPANCY, animalPositions.get(animal));
 
             if (animal.getHealth() > 50 && animal.getEnergy() > 60 &&
                     animal.getHunger() < 50 && animal.getAge() > 20) {
@@ -103,6 +128,7 @@ public class SimulationHandler {
                     Animal baby = createOffspring(animal);
                     if (baby != null) {
                         babies.add(baby);
+                        recordActivity(ActivityHeatmap.Layer.BIRTHS, animalPositions.get(animal));
                         animal.setEnergy(animal.getEnergy() - 40);
                         animal.setHunger(animal.getHunger() + 20);
                     }
@@ -170,6 +196,7 @@ public class SimulationHandler {
                 if (animal.getType() == AnimalType.HERBIVORE || animal.getType() == AnimalType.OMNIVORE) {
                     if (grass[pos.x()][pos.y()]) {
                         grass[pos.x()][pos.y()] = false;
+                        recordActivity(ActivityHeatmap.Layer.GRASS_EATEN, pos);
                         animal.setHunger(Math.max(0, animal.getHunger() - 20));
                     } else {
                         moveAnimalRandomly(animal);
@@ -200,6 +227,7 @@ public class SimulationHandler {
 
         if (prey != null) {
             prey.setHealth(0);
+            recordActivity(ActivityHeatmap.Layer.KILLS, pos);
             predator.setHunger(0);
             predator.setEnergy(Math.min(100, predator.getEnergy() + 30));
         } else {
@@ -208,6 +236,11 @@ public class SimulationHandler {
         }
     }
 
+    private void recordActivity(ActivityHeatmap.Layer layer, Point pos) {
+        if (heatmap == null || pos == null) return;
+        heatmap.record(layer, pos.x(), pos.y());
+    }
+
     private void moveAnimalRandomly(Animal animal) {
         Point currentPos = animalPositions.get(animal);
         if (currentPos == null) return;
@@ -230,7 +263,18 @@ public class SimulationHandler {
         return Collections.unmodifiableMap(animalPositions);
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
     public boolean[][] getGrass() {
         return grass;
     }
+
+    /**
+     * Returns the activity heatmap, or null if the handler was built without heatmap tracking.
+     */
+    public ActivityHeatmap getHeatmap() {
+        return heatmap;
+    }
 }
\ No newline at end of file
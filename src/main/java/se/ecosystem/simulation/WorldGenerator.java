@@ -0,0 +1,116 @@
+package se.ecosystem.simulation;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+public class WorldGenerator {
+
+    // Fixed work unit sizes so the split RNG streams, and therefore the world, depend only on the seed
+    private static final int GRASS_BAND_WIDTH = 256;
+    private static final int SPAWN_CHUNK_SIZE = 4096;
+
+    public record Config(double grassDensity, int herbivores, int carnivores, int omnivores) {
+
+        public Config {
+            requireValidDensity(grassDensity);
+            if (herbivores < 0 || carnivores < 0 || omnivores < 0) {
+                throw new IllegalArgumentException("Population counts must not be negative");
+            }
+            try {
+                Math.addExact(Math.addExact(herbivores, carnivores), omnivores);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Total population must not exceed " + Integer.MAX_VALUE, e);
+            }
+        }
+
+        public int population() {
+            return herbivores + carnivores + omnivores;
+        }
+
+        public static Config defaults() {
+            return new Config(0.2, 8, 2, 4);
+        }
+    }
+
+    private final SplittableRandom grassRoot;
+    private final SplittableRandom spawnRoot;
+
+    public WorldGenerator(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        this.grassRoot = root.split();
+        this.spawnRoot = root.split();
+    }
+
+    /**
+     * Fills the grid in parallel column bands, each with its own RNG stream. Within a band,
+     * geometric skip sampling jumps straight to the next grass cell, so the work done is
+     * proportional to the number of grass cells rather than the number of cells.
+     */
+    public void fillGrass(boolean[][] grass, double density) {
+        requireValidDensity(density);
+        int width = grass.length;
+        if (width == 0 || density <= 0) return;
+        int height = grass[0].length;
+
+        int bandCount = (width + GRASS_BAND_WIDTH - 1) / GRASS_BAND_WIDTH;
+        SplittableRandom[] streams = new SplittableRandom[bandCount];
+        for (int i = 0; i < bandCount; i++) {
+            streams[i] = grassRoot.split();
+        }
+
+        double logMiss = Math.log1p(-density);
+
+        IntStream.range(0, bandCount).parallel().forEach(band -> {
+            SplittableRandom rng = streams[band];
+            int minX = band * GRASS_BAND_WIDTH;
+            int maxX = Math.min(width, minX + GRASS_BAND_WIDTH);
+            long cells = (long) (maxX - minX) * height;
+
+            long cell = -1;
+            while (true) {
+                long skip = nextSkip(rng, logMiss);
+                if (skip >= cells - cell - 1) break;
+                cell += skip + 1;
+                grass[minX + (int) (cell / height)][(int) (cell % height)] = true;
+            }
+        });
+    }
+
+    /**
+     * Returns count uniformly random positions inside [minX, maxX) x [minY, maxY), generated in
+     * parallel chunks. Each call draws a fresh stream, so call order must stay fixed for a seed.
+     */
+    public SimulationHandler.Point[] scatter(int count, int minX, int maxX, int minY, int maxY) {
+        SimulationHandler.Point[] points = new SimulationHandler.Point[count];
+
+        int chunkCount = (count + SPAWN_CHUNK_SIZE - 1) / SPAWN_CHUNK_SIZE;
+        SplittableRandom[] streams = new SplittableRandom[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            streams[i] = spawnRoot.split();
+        }
+
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            SplittableRandom rng = streams[chunk];
+            int end = Math.min(count, (chunk + 1) * SPAWN_CHUNK_SIZE);
+            for (int i = chunk * SPAWN_CHUNK_SIZE; i < end; i++) {
+                points[i] = new SimulationHandler.Point(rng.nextInt(minX, maxX), rng.nextInt(minY, maxY));
+            }
+        });
+
+        return points;
+    }
+
+    // Written so NaN is rejected too, it would otherwise make every skip zero and fill the whole grid
+    private static void requireValidDensity(double density) {
+        if (!(density >= 0 && density <= 1)) {
+            throw new IllegalArgumentException("grassDensity must be in [0, 1], was " + density);
+        }
+    }
+
+    // Number of non-grass cells before the next grass cell, geometrically distributed
+    private long nextSkip(SplittableRandom rng, double logMiss) {
+        if (logMiss == Double.NEGATIVE_INFINITY) return 0;
+        double u = 1.0 - rng.nextDouble(); // (0, 1], avoids log(0)
+        return (long) Math.floor(Math.log(u) / logMiss); // saturates at Long.MAX_VALUE
+    }
+}
@@ -7,22 +7,33 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import se.ecosystem.model.Animal;
 import se.ecosystem.model.enums.AnimalState;
 import se.ecosystem.model.enums.AnimalType;
+import se.ecosystem.simulation.ActivityHeatmap;
 import se.ecosystem.simulation.SimulationHandler;
+import se.ecosystem.simulation.WorldGenerator;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 public class EcosystemUI extends Application {
 
@@ -45,9 +56,13 @@ public class EcosystemUI extends Application {
     private Label omnivoreLabel;
     private Label avgAgeLabel;
 
+    // Heatmap overlay drawn on top of the grass, null when hidden
+    private ActivityHeatmap.Layer heatmapLayer;
+
     @Override
     public void start(Stage stage) {
-        simulationHandler = new SimulationHandler(GRID_WIDTH, GRID_HEIGHT);
+        simulationHandler = new SimulationHandler(GRID_WIDTH, GRID_HEIGHT,
+                WorldGenerator.Config.defaults(), new Random().nextLong(), true);
 
         BorderPane root = new BorderPane();
         root.setPadding(new Insets(10));
@@ -63,7 +78,7 @@ public class EcosystemUI extends Application {
         root.setCenter(canvasContainer);
 
         // Create Side Panel (Legend + Stats)
-        VBox sidePanel = createSidePanel();
+        VBox sidePanel = createSidePanel(stage);
         root.setRight(sidePanel);
 
         Scene scene = new Scene(root);
@@ -75,7 +90,7 @@ public class EcosystemUI extends Application {
         startSimulationLoop(canvas.getGraphicsContext2D());
     }
 
-    private VBox createSidePanel() {
+    private VBox createSidePanel(Stage stage) {
         VBox panel = new VBox(10);
         panel.setPadding(new Insets(0, 0, 0, 20)); // Left padding to separate from canvas
         panel.setPrefWidth(200);
@@ -101,12 +116,60 @@ public class EcosystemUI extends Application {
         carnivoreLabel = new Label("Carnivores: 0");
         omnivoreLabel = new Label("Omnivores: 0");
         avgAgeLabel = new Label("Avg Age: 0 ticks");
+        // Shown so an interesting world can be recreated; it never changes, so it is not a field
+        Label seedLabel = new Label("Seed: " + simulationHandler.getSeed());
+
+        panel.getChildren().addAll(statsTitle, totalLabel, herbivoreLabel, carnivoreLabel, omnivoreLabel, avgAgeLabel, seedLabel);
+
+        // Heatmap Section
+        Label heatmapTitle = new Label("Activity Heatmap");
+        heatmapTitle.setStyle("-fx-font-weight: bold; -fx-font-size: 14px; -fx-padding: 20 0 5 0;");
+
+        ComboBox<String> layerSelector = new ComboBox<>();
+        layerSelector.getItems().add("None");
+        for (ActivityHeatmap.Layer layer : ActivityHeatmap.Layer.values()) {
+            layerSelector.getItems().add(layerName(layer));
+        }
+        layerSelector.getSelectionModel().selectFirst();
+        layerSelector.setOnAction(e -> {
+            int index = layerSelector.getSelectionModel().getSelectedIndex();
+            heatmapLayer = index <= 0 ? null : ActivityHeatmap.Layer.values()[index - 1];
+        });
 
-        panel.getChildren().addAll(statsTitle, totalLabel, herbivoreLabel, carnivoreLabel, omnivoreLabel, avgAgeLabel);
+        Button exportButton = new Button("Export Snapshot");
+        exportButton.setOnAction(e -> exportHeatmap(stage));
+
+        panel.getChildren().addAll(heatmapTitle, layerSelector, exportButton);
 
         return panel;
     }
 
+    private String layerName(ActivityHeatmap.Layer layer) {
+        return switch (layer) {
+            case OCCUPANCY -> "Occupancy";
+            case KILLS -> "Kills";
+            case GRASS_EATEN -> "Grass Eaten";
+            case BIRTHS -> "Births";
+            case DEATHS -> "Deaths";
+        };
+    }
+
+    private void exportHeatmap(Stage stage) {
+        ActivityHeatmap heatmap = simulationHandler.getHeatmap();
+
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export Heatmap Snapshot");
+        chooser.setInitialFileName("heatmap-" + heatmap.getCurrentTick() + ".bin");
+        File file = chooser.showSaveDialog(stage);
+        if (file == null) return;
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            heatmap.writeSnapshot(out);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
     private HBox createLegendItem(Color color, String text) {
         Rectangle rect = new Rectangle(20, 20, color);
         rect.setStroke(Color.BLACK);
@@ -212,6 +275,23 @@ public class EcosystemUI extends Application {
             }
         }
 
+        // 1.75 Draw Heatmap Overlay (scaled against the hottest cell)
+        if (heatmapLayer != null) {
+            ActivityHeatmap heatmap = simulationHandler.getHeatmap();
+            double max = heatmap.getMaxValue(heatmapLayer);
+            if (max > 0) {
+                for (int x = 0; x < GRID_WIDTH; x++) {
+                    for (int y = 0; y < GRID_HEIGHT; y++) {
+                        double intensity = heatmap.getValue(heatmapLayer, x, y) / max;
+                        if (intensity > 0.01) {
+                            gc.setFill(Color.ORANGERED.deriveColor(0, 1, 1, 0.7 * intensity));
+                            gc.fillRect(x * CELL_SIZE, y * CELL_SIZE, CELL_SIZE, CELL_SIZE);
+                        }
+                    }
+                }
+            }
+        }
+
         // 2. Draw Grid Lines
         gc.setStroke(Color.LIGHTGRAY);
         gc.setLineWidth(1.0);
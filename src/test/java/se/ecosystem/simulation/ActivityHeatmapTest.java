@@ -0,0 +1,102 @@
+package se.ecosystem.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityHeatmapTest {
+
+    @Test
+    void valueDecaysOnRead() {
+        ActivityHeatmap heatmap = new ActivityHeatmap(4, 4, 0.5);
+        heatmap.record(ActivityHeatmap.Layer.KILLS, 1, 2);
+
+        heatmap.advance();
+        heatmap.advance();
+
+        assertEquals(0.25, heatmap.getValue(ActivityHeatmap.Layer.KILLS, 1, 2), 1e-12);
+    }
+
+    @Test
+    void recordingAgainCatchesUpDecayFirst() {
+        ActivityHeatmap heatmap = new ActivityHeatmap(4, 4, 0.5);
+        heatmap.record(ActivityHeatmap.Layer.KILLS, 1, 2);
+        heatmap.advance();
+        heatmap.advance();
+
+        heatmap.record(ActivityHeatmap.Layer.KILLS, 1, 2);
+
+        assertEquals(1.25, heatmap.getValue(ActivityHeatmap.Layer.KILLS, 1, 2), 1e-12);
+    }
+
+    @Test
+    void recordingOneLayerDecaysTheOtherLayersOfTheCell() {
+        ActivityHeatmap heatmap = new ActivityHeatmap(4, 4, 0.5);
+        heatmap.record(ActivityHeatmap.Layer.BIRTHS, 0, 0);
+        heatmap.advance();
+
+        heatmap.record(ActivityHeatmap.Layer.DEATHS, 0, 0);
+
+        assertEquals(0.5, heatmap.getValue(ActivityHeatmap.Layer.BIRTHS, 0, 0), 1e-12);
+        assertEquals(1.0, heatmap.getValue(ActivityHeatmap.Layer.DEATHS, 0, 0), 1e-12);
+    }
+
+    @Test
+    void longGapsFallBackToPow() {
+        ActivityHeatmap heatmap = new ActivityHeatmap(4, 4, 0.99);
+        heatmap.record(ActivityHeatmap.Layer.OCCUPANCY, 3, 3);
+
+        for (int i = 0; i < 255; i++) {
+            heatmap.advance();
+        }
+        assertEquals(Math.pow(0.99, 255), heatmap.getValue(ActivityHeatmap.Layer.OCCUPANCY, 3, 3), 1e-12);
+
+        heatmap.advance();
+        assertEquals(Math.pow(0.99, 256), heatmap.getValue(ActivityHeatmap.Layer.OCCUPANCY, 3, 3), 1e-12);
+
+        for (int i = 0; i < 44; i++) {
+            heatmap.advance();
+        }
+        heatmap.record(ActivityHeatmap.Layer.OCCUPANCY, 3, 3);
+        assertEquals(Math.pow(0.99, 300) + 1, heatmap.getValue(ActivityHeatmap.Layer.OCCUPANCY, 3, 3), 1e-12);
+    }
+
+    @Test
+    void maxValueTracksHottestCell() {
+        ActivityHeatmap heatmap = new ActivityHeatmap(4, 4, 0.5);
+        heatmap.record(ActivityHeatmap.Layer.GRASS_EATEN, 0, 0);
+        heatmap.advance();
+        heatmap.record(ActivityHeatmap.Layer.GRASS_EATEN, 2, 1);
+
+        assertEquals(1.0, heatmap.getMaxValue(ActivityHeatmap.Layer.GRASS_EATEN), 1e-12);
+        assertEquals(0.0, heatmap.getMaxValue(ActivityHeatmap.Layer.KILLS));
+    }
+
+    @Test
+    void snapshotContainsHeaderAndEveryLayer() throws IOException {
+        ActivityHeatmap heatmap = new ActivityHeatmap(3, 2, 0.9);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        heatmap.writeSnapshot(out);
+
+        int header = 5 * Integer.BYTES + Double.BYTES + Integer.BYTES;
+        int layers = ActivityHeatmap.Layer.values().length * (Integer.BYTES + 3 * 2 * Double.BYTES);
+        assertEquals(header + layers, out.size());
+    }
+
+    @Test
+    void rejectsGridsThatOverflowCellCount() {
+        assertThrows(IllegalArgumentException.class, () -> new ActivityHeatmap(50_000, 50_000, 0.98));
+        assertThrows(IllegalArgumentException.class, () -> new ActivityHeatmap(100_000, 100_000, 0.98));
+    }
+
+    @Test
+    void rejectsInvalidDecay() {
+        assertThrows(IllegalArgumentException.class, () -> new ActivityHeatmap(4, 4, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new ActivityHeatmap(4, 4, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ActivityHeatmap(4, 4, 1.5));
+    }
+}
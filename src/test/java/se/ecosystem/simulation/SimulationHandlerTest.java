@@ -0,0 +1,32 @@
+package se.ecosystem.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationHandlerTest {
+
+    private static final WorldGenerator.Config CONFIG = WorldGenerator.Config.defaults();
+
+    @Test
+    void heatmapIsOnlyAllocatedWhenRequested() {
+        assertNull(new SimulationHandler(50, 50).getHeatmap());
+        assertNull(new SimulationHandler(50, 50, CONFIG, 1, false).getHeatmap());
+        assertNotNull(new SimulationHandler(50, 50, CONFIG, 1, true).getHeatmap());
+    }
+
+    @Test
+    void heatmapRecordsActivityDuringTicks() {
+        SimulationHandler handler = new SimulationHandler(20, 15, CONFIG, 1, true);
+
+        handler.updateSimulation();
+
+        assertTrue(handler.getHeatmap().getMaxValue(ActivityHeatmap.Layer.OCCUPANCY) > 0);
+    }
+
+    @Test
+    void oversizedHeatmapFailsBeforeGeneration() {
+        // 50k x 50k would need a 2.5 GB grass grid, so this only passes if the heatmap is checked first
+        assertThrows(IllegalArgumentException.class, () -> new SimulationHandler(50_000, 50_000, CONFIG, 1, true));
+    }
+}
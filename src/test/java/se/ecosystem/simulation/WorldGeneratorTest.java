@@ -0,0 +1,132 @@
+package se.ecosystem.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldGeneratorTest {
+
+    private static final WorldGenerator.Config CONFIG = new WorldGenerator.Config(0.2, 500, 100, 200);
+
+    @Test
+    void sameSeedProducesIdenticalWorld() {
+        SimulationHandler first = new SimulationHandler(1000, 1000, CONFIG, 42, false);
+        SimulationHandler second = new SimulationHandler(1000, 1000, CONFIG, 42, false);
+
+        assertArrayEquals(first.getGrass(), second.getGrass());
+        assertEquals(describeAnimals(first), describeAnimals(second));
+    }
+
+    @Test
+    void generationDoesNotDependOnThreadCount() throws Exception {
+        World commonPool = generate();
+
+        // Parallel streams started from inside a ForkJoinPool task run on that pool
+        for (int threads : new int[] {1, 3}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                World world = pool.submit(WorldGeneratorTest::generate).get();
+                assertArrayEquals(commonPool.grass(), world.grass(), threads + " thread(s)");
+                assertArrayEquals(commonPool.points(), world.points(), threads + " thread(s)");
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void differentSeedsProduceDifferentWorlds() {
+        SimulationHandler first = new SimulationHandler(1000, 1000, CONFIG, 42, false);
+        SimulationHandler second = new SimulationHandler(1000, 1000, CONFIG, 43, false);
+
+        assertFalse(Arrays.deepEquals(first.getGrass(), second.getGrass()));
+    }
+
+    @Test
+    void grassFillMatchesDensity() {
+        boolean[][] grass = new boolean[2000][2000];
+        new WorldGenerator(7).fillGrass(grass, 0.2);
+
+        assertEquals(0.2, countGrass(grass) / 4_000_000.0, 0.002);
+    }
+
+    @Test
+    void grassFillHandlesDensityBounds() {
+        boolean[][] empty = new boolean[300][300];
+        new WorldGenerator(7).fillGrass(empty, 0.0);
+        assertEquals(0, countGrass(empty));
+
+        boolean[][] full = new boolean[300][300];
+        new WorldGenerator(7).fillGrass(full, 1.0);
+        assertEquals(300 * 300, countGrass(full));
+    }
+
+    @Test
+    void grassFillRejectsInvalidDensity() {
+        boolean[][] grass = new boolean[100][100];
+        WorldGenerator generator = new WorldGenerator(7);
+
+        assertThrows(IllegalArgumentException.class, () -> generator.fillGrass(grass, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> generator.fillGrass(grass, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.fillGrass(grass, -0.1));
+        assertEquals(0, countGrass(grass));
+    }
+
+    @Test
+    void scatterStaysInsideBounds() {
+        SimulationHandler.Point[] points = new WorldGenerator(7).scatter(10_000, 10, 20, 30, 35);
+
+        assertEquals(10_000, points.length);
+        for (SimulationHandler.Point point : points) {
+            assertTrue(point.x() >= 10 && point.x() < 20, "x out of bounds: " + point);
+            assertTrue(point.y() >= 30 && point.y() < 35, "y out of bounds: " + point);
+        }
+    }
+
+    @Test
+    void configRejectsInvalidDensity() {
+        assertThrows(IllegalArgumentException.class, () -> new WorldGenerator.Config(Double.NaN, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new WorldGenerator.Config(-0.1, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new WorldGenerator.Config(1.1, 1, 1, 1));
+    }
+
+    @Test
+    void configRejectsPopulationOverflow() {
+        assertThrows(IllegalArgumentException.class, () -> new WorldGenerator.Config(0.2, Integer.MAX_VALUE, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new WorldGenerator.Config(0.2, 1, Integer.MAX_VALUE, 1));
+        assertEquals(Integer.MAX_VALUE, new WorldGenerator.Config(0.2, Integer.MAX_VALUE - 2, 1, 1).population());
+    }
+
+    private record World(boolean[][] grass, SimulationHandler.Point[] points) {}
+
+    // Several grass bands and spawn chunks, so the work is actually split across threads
+    private static World generate() {
+        WorldGenerator generator = new WorldGenerator(42);
+        boolean[][] grass = new boolean[2000][300];
+        generator.fillGrass(grass, 0.2);
+        SimulationHandler.Point[] points = generator.scatter(50_000, 0, 2000, 0, 300);
+        return new World(grass, points);
+    }
+
+    // Animals are distinct objects per world, so compare them by type and position in a stable order
+    private static List<String> describeAnimals(SimulationHandler handler) {
+        return handler.getAnimalPositions().entrySet().stream()
+                .map(e -> e.getKey().getType() + "@" + e.getValue().x() + "," + e.getValue().y())
+                .sorted()
+                .toList();
+    }
+
+    private static long countGrass(boolean[][] grass) {
+        long count = 0;
+        for (boolean[] column : grass) {
+            for (boolean cell : column) {
+                if (cell) count++;
+            }
+        }
+        return count;
+    }
+}